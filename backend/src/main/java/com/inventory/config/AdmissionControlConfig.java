@@ -0,0 +1,61 @@
+package com.inventory.config;
+
+import com.inventory.ratelimit.AdaptiveConcurrencyLimiter;
+import com.inventory.ratelimit.AdmissionControlInterceptor;
+import com.inventory.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class AdmissionControlConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!environment.getProperty("app.rate-limit.enabled", Boolean.class, true)) {
+            return;
+        }
+        // Decoding is CPU-heavy, so barcode endpoints get a much tighter budget than stock lookups
+        registry.addInterceptor(admissionControl("barcode", 5, 10, 1, 4, 16)).addPathPatterns("/barcode/**");
+        registry.addInterceptor(admissionControl("items", 50, 100, 1, 20, 200))
+                .addPathPatterns("/items/**")
+                .excludePathPatterns("/items/*/image");
+        // Upload latency is mostly the client's network, not server load, so uploads get
+        // a fixed concurrency cap of their own instead of skewing the items limit
+        registry.addInterceptor(admissionControl("uploads", 1, 5, 8, 8, 8))
+                .addPathPatterns("/images", "/items/*/image");
+    }
+
+    private AdmissionControlInterceptor admissionControl(String group, double defaultRate, int defaultBurst,
+                                                         int defaultMinConcurrency, int defaultInitialConcurrency,
+                                                         int defaultMaxConcurrency) {
+        String prefix = "app.rate-limit." + group + ".";
+        double rate = environment.getProperty(prefix + "requests-per-second", Double.class, defaultRate);
+        int burst = environment.getProperty(prefix + "burst", Integer.class, defaultBurst);
+        int maxTrackedClients = environment.getProperty("app.rate-limit.max-tracked-clients", Integer.class, 10000);
+        int addressMultiplier = environment.getProperty("app.rate-limit.address-multiplier", Integer.class, 10);
+
+        AdaptiveConcurrencyLimiter concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+            environment.getProperty(prefix + "initial-concurrency", Integer.class, defaultInitialConcurrency),
+            environment.getProperty(prefix + "min-concurrency", Integer.class, defaultMinConcurrency),
+            environment.getProperty(prefix + "max-concurrency", Integer.class, defaultMaxConcurrency)
+        );
+        return new AdmissionControlInterceptor(
+            group,
+            environment.getProperty("app.rate-limit.client-header", "X-Device-Id"),
+            new TokenBucketRateLimiter(rate, burst, maxTrackedClients),
+            new TokenBucketRateLimiter(rate * addressMultiplier, burst * addressMultiplier, maxTrackedClients),
+            concurrencyLimiter,
+            meterRegistry
+        );
+    }
+}
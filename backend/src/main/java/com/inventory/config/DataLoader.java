@@ -3,20 +3,22 @@ package com.inventory.config;
 import com.inventory.entity.InventoryItem;
 import com.inventory.repository.InventoryItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.List;
 
 @Component
-public class DataLoader implements CommandLineRunner {
+public class DataLoader {
 
     @Autowired
     private InventoryItemRepository inventoryItemRepository;
 
-    @Override
-    public void run(String... args) throws Exception {
+    /**
+     * Seed sample data. Runs in the background from {@link StartupWarmUp} rather than
+     * blocking startup.
+     */
+    public void loadIfEmpty() {
         // Only load data if the repository is empty
         if (inventoryItemRepository.count() == 0) {
             loadSampleData();
@@ -0,0 +1,33 @@
+package com.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ImageProcessingConfig {
+
+    @Value("${app.images.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${app.images.queue-capacity:16}")
+    private int queueCapacity;
+
+    /**
+     * Bounded pool for decoding and resizing uploads. Once the queue is full new
+     * uploads are rejected instead of piling up full-resolution images in memory.
+     */
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.inventory.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class JobConfig {
+
+    @Value("${app.jobs.worker-threads:2}")
+    private int workerThreads;
+
+    /**
+     * Workers for background jobs. Jobs are only handed over once they hold a
+     * per-type permit, so at most max-concurrent-per-type times the number of job
+     * types are running or waiting here. A claimed job's lease runs while it waits,
+     * so the lease timeout must cover the wait; a job whose lease expires in the
+     * queue is claimed again and the stale run stops at its first chunk.
+     */
+    @Bean(name = "jobExecutor")
+    public ThreadPoolTaskExecutor jobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(workerThreads * 4);
+        executor.setThreadNamePrefix("job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
@@ -0,0 +1,160 @@
+package com.inventory.config;
+
+import com.inventory.repository.InventoryItemRepository;
+import com.inventory.service.BarcodeService;
+import com.inventory.service.JobService;
+import com.inventory.service.StockService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Runs start-up housekeeping and warm-up in the background once the application is
+ * up, instead of blocking startup. Exposed as the {@code startupWarmUp} health
+ * contributor, which the readiness group includes, so load balancers only route
+ * traffic once seeding, reconciliation and warm-up have finished.
+ *
+ * <p>Housekeeping is retried until it succeeds and the instance stays out of
+ * service meanwhile. Warm-up failures only cost latency, so they don't block it.
+ */
+@Component
+@Lazy(false)
+public class StartupWarmUp implements HealthIndicator {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    // Warm-up queries read a bounded page, never the whole table
+    private static final Pageable WARM_UP_PAGE = PageRequest.of(0, 50);
+
+    @Autowired
+    private DataLoader dataLoader;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private BarcodeService barcodeService;
+
+    @Value("${app.seed-data.enabled:true}")
+    private boolean seedDataEnabled;
+
+    @Value("${app.warm-up.iterations:20}")
+    private int warmUpIterations;
+
+    @Value("${app.warm-up.retry-delay-ms:5000}")
+    private long retryDelayMs;
+
+    private volatile boolean complete;
+    private volatile long durationMillis;
+    private volatile String housekeepingError;
+    private volatile String warmUpFailure;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        new SimpleAsyncTaskExecutor("warm-up-").execute(this::run);
+    }
+
+    @Override
+    public Health health() {
+        if (!complete) {
+            Health.Builder health = Health.outOfService().withDetail("warmUp", "in progress");
+            return housekeepingError == null ? health.build() : health.withDetail("lastError", housekeepingError).build();
+        }
+        // A failed warm-up only costs latency, so it must not keep the instance out of rotation
+        Health.Builder health = Health.up().withDetail("durationMs", durationMillis);
+        return warmUpFailure == null ? health.build() : health.withDetail("warning", warmUpFailure).build();
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        if (!runHousekeeping()) {
+            return;
+        }
+        try {
+            warmUp();
+        } catch (Exception e) {
+            log.warn("Start-up warm-up failed", e);
+            warmUpFailure = describe(e);
+        } finally {
+            durationMillis = (System.nanoTime() - start) / 1_000_000;
+            complete = true;
+            log.info("Start-up warm-up finished in {} ms", durationMillis);
+        }
+    }
+
+    /**
+     * Seed, reconcile stock totals and recover jobs, retrying until all succeed.
+     * Each step is idempotent, so a retry simply starts over.
+     *
+     * @return false if interrupted before housekeeping succeeded
+     */
+    private boolean runHousekeeping() {
+        while (true) {
+            try {
+                if (seedDataEnabled) {
+                    dataLoader.loadIfEmpty();
+                }
+                stockService.reconcileAggregates();
+                jobService.requeueExpiredJobs();
+                housekeepingError = null;
+                return true;
+            } catch (RuntimeException e) {
+                housekeepingError = describe(e);
+                log.error("Start-up housekeeping failed, retrying in {} ms", retryDelayMs, e);
+            }
+            try {
+                Thread.sleep(retryDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Exercise the hot paths so the first real requests don't pay for class loading,
+     * JIT compilation, query plan compilation or cold database pages.
+     */
+    private void warmUp() throws Exception {
+        for (int i = 0; i < warmUpIterations; i++) {
+            inventoryItemRepository.findAll(WARM_UP_PAGE);
+            inventoryItemRepository.findLowStockItems(WARM_UP_PAGE);
+            inventoryItemRepository.getTotalItemCount();
+            inventoryItemRepository.getTotalQuantity();
+            inventoryItemRepository.getCountByCategory();
+            stockService.getAllWarehouses();
+
+            // Synthetic encode/decode round trips load and compile the ZXing code paths
+            String text = String.format("WARMUP%06d", i);
+            barcodeService.decodeBarcodeFromBase64(barcodeService.generateBarcode(text));
+            barcodeService.decodeBarcodeFromBase64(barcodeService.generateQRCode(text));
+        }
+
+        // Load the JPEG codec used for image renditions
+        ImageIO.write(new BufferedImage(16, 16, BufferedImage.TYPE_INT_RGB), "jpeg", new ByteArrayOutputStream());
+    }
+
+    private static String describe(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
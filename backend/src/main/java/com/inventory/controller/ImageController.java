@@ -0,0 +1,50 @@
+package com.inventory.controller;
+
+import com.inventory.dto.ImageAssetDTO;
+import com.inventory.service.ImageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/images")
+public class ImageController {
+
+    // Renditions are addressed by id and never change once stored
+    private static final CacheControl RENDITION_CACHE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic();
+
+    @Autowired
+    private ImageService imageService;
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImageAssetDTO> uploadImage(@RequestParam("image") MultipartFile image) {
+        ImageAssetDTO asset = imageService.ingest(image);
+        return ResponseEntity.status(asset.isDuplicate() ? HttpStatus.OK : HttpStatus.CREATED).body(asset);
+    }
+
+    @GetMapping("/{id}/thumbnail")
+    public ResponseEntity<byte[]> getThumbnail(@PathVariable Long id) {
+        return rendition(imageService.getThumbnail(id));
+    }
+
+    @GetMapping("/{id}/medium")
+    public ResponseEntity<byte[]> getMedium(@PathVariable Long id) {
+        return rendition(imageService.getMedium(id));
+    }
+
+    private ResponseEntity<byte[]> rendition(Optional<byte[]> bytes) {
+        return bytes
+                .map(body -> ResponseEntity.ok()
+                        .contentType(MediaType.parseMediaType(ImageService.RENDITION_CONTENT_TYPE))
+                        .cacheControl(RENDITION_CACHE)
+                        .body(body))
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,36 @@
+package com.inventory.controller;
+
+import com.inventory.service.ImageProcessingException;
+import com.inventory.service.UnsupportedImageException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Maps image ingestion failures from the upload endpoints to HTTP responses.
+ */
+@RestControllerAdvice(assignableTypes = {ImageController.class, InventoryController.class})
+public class ImageUploadExceptionHandler {
+
+    @ExceptionHandler(UnsupportedImageException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidImage(UnsupportedImageException e) {
+        return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Map<String, String>> handleBusy(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Image processing is busy, please retry"));
+    }
+
+    @ExceptionHandler(ImageProcessingException.class)
+    public ResponseEntity<Map<String, String>> handleProcessingFailure(ImageProcessingException e) {
+        return ResponseEntity.internalServerError().body(Map.of("error", "Failed to process image"));
+    }
+}
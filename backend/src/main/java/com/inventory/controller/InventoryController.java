@@ -2,10 +2,14 @@ package com.inventory.controller;
 
 import com.inventory.dto.InventoryItemDTO;
 import com.inventory.dto.DashboardStatsDTO;
+import com.inventory.dto.ItemStockDTO;
 import com.inventory.service.InventoryService;
+import com.inventory.service.StockService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -16,6 +20,9 @@ public class InventoryController {
     @Autowired
     private InventoryService inventoryService;
 
+    @Autowired
+    private StockService stockService;
+
     @GetMapping
     public ResponseEntity<List<InventoryItemDTO>> getAllItems() {
         List<InventoryItemDTO> items = inventoryService.getAllItems();
@@ -29,6 +36,11 @@ public class InventoryController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{id}/stock")
+    public List<ItemStockDTO> getItemStock(@PathVariable Long id) {
+        return stockService.getStockByItem(id);
+    }
+
     @GetMapping("/dashboard/stats")
     public DashboardStatsDTO getDashboardStats() {
         return inventoryService.getDashboardStats();
@@ -38,4 +50,11 @@ public class InventoryController {
     public List<InventoryItemDTO> getLowStockItems() {
         return inventoryService.getLowStockItems();
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/{id}/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<InventoryItemDTO> uploadItemImage(@PathVariable Long id, @RequestParam("image") MultipartFile image) {
+        return inventoryService.attachImage(id, image)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
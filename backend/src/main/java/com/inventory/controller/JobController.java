@@ -0,0 +1,73 @@
+package com.inventory.controller;
+
+import com.inventory.dto.JobDTO;
+import com.inventory.entity.JobType;
+import com.inventory.service.JobService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/jobs")
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    @PostMapping
+    public ResponseEntity<?> submitJob(@RequestParam String type) {
+        JobType jobType;
+        try {
+            jobType = JobType.valueOf(type.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unknown job type: " + type));
+        }
+
+        try {
+            JobDTO job = jobService.submit(jobType);
+            URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                    .path("/jobs/{id}").buildAndExpand(job.getId()).toUri();
+            return ResponseEntity.accepted().location(location).body(job);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping
+    public List<JobDTO> getRecentJobs() {
+        return jobService.getRecentJobs();
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDTO> getJob(@PathVariable Long id) {
+        return jobService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamJobEvents(@PathVariable Long id) {
+        return jobService.subscribe(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<?> cancelJob(@PathVariable Long id) {
+        try {
+            return jobService.cancel(id)
+                    .<ResponseEntity<?>>map(job -> ResponseEntity.accepted().body(job))
+                    .orElse(ResponseEntity.notFound().build());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
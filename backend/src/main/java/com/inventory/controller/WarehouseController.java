@@ -0,0 +1,72 @@
+package com.inventory.controller;
+
+import com.inventory.dto.ItemStockDTO;
+import com.inventory.dto.WarehouseDTO;
+import com.inventory.service.StockService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/warehouses")
+public class WarehouseController {
+
+    @Autowired
+    private StockService stockService;
+
+    @GetMapping
+    public List<WarehouseDTO> getAllWarehouses() {
+        return stockService.getAllWarehouses();
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createWarehouse(@Valid @RequestBody WarehouseDTO warehouseDTO) {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(stockService.createWarehouse(warehouseDTO));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{code}/stock")
+    public ResponseEntity<List<ItemStockDTO>> getStock(@PathVariable String code) {
+        return stockService.getStockByWarehouse(code)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{code}/stock/low-stock")
+    public ResponseEntity<List<ItemStockDTO>> getLowStock(@PathVariable String code) {
+        return stockService.getLowStockByWarehouse(code)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{code}/stock/{itemId}")
+    public ResponseEntity<?> setStock(@PathVariable String code, @PathVariable Long itemId,
+                                      @Valid @RequestBody ItemStockDTO stockDTO) {
+        try {
+            return ResponseEntity.ok(
+                stockService.setStock(code, itemId, stockDTO.getQuantity(), stockDTO.getLowStockThreshold())
+            );
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @PatchMapping("/{code}/stock/{itemId}")
+    public ResponseEntity<?> adjustStock(@PathVariable String code, @PathVariable Long itemId, @RequestParam int delta) {
+        try {
+            return stockService.adjustStock(code, itemId, delta)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", "Insufficient stock")));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.inventory.dto;
+
+public class ImageAssetDTO {
+    private Long id;
+    private String contentHash;
+    private Integer originalWidth;
+    private Integer originalHeight;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private boolean duplicate;
+
+    public ImageAssetDTO() {}
+
+    public ImageAssetDTO(Long id, String contentHash, Integer originalWidth, Integer originalHeight) {
+        this.id = id;
+        this.contentHash = contentHash;
+        this.originalWidth = originalWidth;
+        this.originalHeight = originalHeight;
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getContentHash() { return contentHash; }
+    public void setContentHash(String contentHash) { this.contentHash = contentHash; }
+
+    public Integer getOriginalWidth() { return originalWidth; }
+    public void setOriginalWidth(Integer originalWidth) { this.originalWidth = originalWidth; }
+
+    public Integer getOriginalHeight() { return originalHeight; }
+    public void setOriginalHeight(Integer originalHeight) { this.originalHeight = originalHeight; }
+
+    public String getThumbnailUrl() { return thumbnailUrl; }
+    public void setThumbnailUrl(String thumbnailUrl) { this.thumbnailUrl = thumbnailUrl; }
+
+    public String getMediumUrl() { return mediumUrl; }
+    public void setMediumUrl(String mediumUrl) { this.mediumUrl = mediumUrl; }
+
+    public boolean isDuplicate() { return duplicate; }
+    public void setDuplicate(boolean duplicate) { this.duplicate = duplicate; }
+}
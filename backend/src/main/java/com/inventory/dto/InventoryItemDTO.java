@@ -20,6 +20,9 @@ public class InventoryItemDTO {
     private String category;
 
     private String image;
+    private Long imageAssetId;
+    private String thumbnailUrl;
+    private String mediumUrl;
     private String barcode;
     private String qrCode;
 
@@ -39,6 +42,18 @@ public class InventoryItemDTO {
         this.category = category;
     }
 
+    // Used by list queries, which never read the legacy inline image
+    public InventoryItemDTO(Long id, String name, Integer quantity, Integer lowStockThreshold,
+                            String barcode, String qrCode, Long imageAssetId) {
+        this.id = id;
+        this.name = name;
+        this.quantity = quantity;
+        this.lowStockThreshold = lowStockThreshold;
+        this.barcode = barcode;
+        this.qrCode = qrCode;
+        this.imageAssetId = imageAssetId;
+    }
+
     // Getters and Setters
     public Long getId() {
         return id;
@@ -80,6 +95,30 @@ public class InventoryItemDTO {
         this.image = image;
     }
 
+    public Long getImageAssetId() {
+        return imageAssetId;
+    }
+
+    public void setImageAssetId(Long imageAssetId) {
+        this.imageAssetId = imageAssetId;
+    }
+
+    public String getThumbnailUrl() {
+        return thumbnailUrl;
+    }
+
+    public void setThumbnailUrl(String thumbnailUrl) {
+        this.thumbnailUrl = thumbnailUrl;
+    }
+
+    public String getMediumUrl() {
+        return mediumUrl;
+    }
+
+    public void setMediumUrl(String mediumUrl) {
+        this.mediumUrl = mediumUrl;
+    }
+
     public String getBarcode() {
         return barcode;
     }
@@ -0,0 +1,45 @@
+package com.inventory.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class ItemStockDTO {
+    private Long itemId;
+    private Long warehouseId;
+    private String warehouseCode;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity must be non-negative")
+    private Integer quantity;
+
+    @Min(value = 0, message = "Low stock threshold must be non-negative")
+    private Integer lowStockThreshold;
+
+    public ItemStockDTO() {}
+
+    public ItemStockDTO(Long itemId, Long warehouseId, Integer quantity, Integer lowStockThreshold) {
+        this.itemId = itemId;
+        this.warehouseId = warehouseId;
+        this.quantity = quantity;
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    public Long getItemId() { return itemId; }
+    public void setItemId(Long itemId) { this.itemId = itemId; }
+
+    public Long getWarehouseId() { return warehouseId; }
+    public void setWarehouseId(Long warehouseId) { this.warehouseId = warehouseId; }
+
+    public String getWarehouseCode() { return warehouseCode; }
+    public void setWarehouseCode(String warehouseCode) { this.warehouseCode = warehouseCode; }
+
+    public Integer getQuantity() { return quantity; }
+    public void setQuantity(Integer quantity) { this.quantity = quantity; }
+
+    public Integer getLowStockThreshold() { return lowStockThreshold; }
+    public void setLowStockThreshold(Integer lowStockThreshold) { this.lowStockThreshold = lowStockThreshold; }
+
+    public boolean isLowStock() {
+        return quantity != null && lowStockThreshold != null && quantity <= lowStockThreshold;
+    }
+}
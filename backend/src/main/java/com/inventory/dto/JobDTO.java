@@ -0,0 +1,56 @@
+package com.inventory.dto;
+
+import com.inventory.entity.JobStatus;
+import com.inventory.entity.JobType;
+import java.time.LocalDateTime;
+
+public class JobDTO {
+    private Long id;
+    private JobType type;
+    private JobStatus status;
+    private Long totalItems;
+    private long processedItems;
+    private Integer percentComplete;
+    private boolean cancelRequested;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public JobType getType() { return type; }
+    public void setType(JobType type) { this.type = type; }
+
+    public JobStatus getStatus() { return status; }
+    public void setStatus(JobStatus status) { this.status = status; }
+
+    public Long getTotalItems() { return totalItems; }
+    public void setTotalItems(Long totalItems) { this.totalItems = totalItems; }
+
+    public long getProcessedItems() { return processedItems; }
+    public void setProcessedItems(long processedItems) { this.processedItems = processedItems; }
+
+    public Integer getPercentComplete() { return percentComplete; }
+    public void setPercentComplete(Integer percentComplete) { this.percentComplete = percentComplete; }
+
+    public boolean isCancelRequested() { return cancelRequested; }
+    public void setCancelRequested(boolean cancelRequested) { this.cancelRequested = cancelRequested; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(LocalDateTime finishedAt) { this.finishedAt = finishedAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
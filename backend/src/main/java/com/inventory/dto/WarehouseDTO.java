@@ -0,0 +1,24 @@
+package com.inventory.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public class WarehouseDTO {
+    private Long id;
+
+    @NotBlank(message = "Code is required")
+    @Size(max = 32, message = "Code must be at most 32 characters")
+    private String code;
+
+    @NotBlank(message = "Name is required")
+    private String name;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+}
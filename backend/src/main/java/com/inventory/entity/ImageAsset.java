@@ -0,0 +1,131 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "image_assets")
+public class ImageAsset {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the uploaded bytes, used to deduplicate identical uploads
+    @Column(name = "content_hash", nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(name = "original_width")
+    private Integer originalWidth;
+
+    @Column(name = "original_height")
+    private Integer originalHeight;
+
+    @Column(name = "original_size")
+    private Long originalSize;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "thumbnail", nullable = false, length = 16777215)
+    private byte[] thumbnail;
+
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Column(name = "medium", nullable = false, length = 16777215)
+    private byte[] medium;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ImageAsset() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Integer getOriginalWidth() {
+        return originalWidth;
+    }
+
+    public void setOriginalWidth(Integer originalWidth) {
+        this.originalWidth = originalWidth;
+    }
+
+    public Integer getOriginalHeight() {
+        return originalHeight;
+    }
+
+    public void setOriginalHeight(Integer originalHeight) {
+        this.originalHeight = originalHeight;
+    }
+
+    public Long getOriginalSize() {
+        return originalSize;
+    }
+
+    public void setOriginalSize(Long originalSize) {
+        this.originalSize = originalSize;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(byte[] thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public byte[] getMedium() {
+        return medium;
+    }
+
+    public void setMedium(byte[] medium) {
+        this.medium = medium;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ImageAsset{" +
+                "id=" + id +
+                ", contentHash='" + contentHash + '\'' +
+                ", originalWidth=" + originalWidth +
+                ", originalHeight=" + originalHeight +
+                ", contentType='" + contentType + '\'' +
+                '}';
+    }
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 
+// Only write changed columns, so saving an item never overwrites the stock aggregate in quantity
 @Entity
+@DynamicUpdate
 @Table(name = "inventory_items")
 public class InventoryItem {
 
@@ -30,6 +33,10 @@ public class InventoryItem {
     @Column(columnDefinition = "TEXT")
     private String image;
 
+    // Ingested image whose renditions are served by /images/{id}/...
+    @Column(name = "image_asset_id")
+    private Long imageAssetId;
+
     @Column(unique = true)
     private String barcode;
 
@@ -99,6 +106,14 @@ public class InventoryItem {
         this.image = image;
     }
 
+    public Long getImageAssetId() {
+        return imageAssetId;
+    }
+
+    public void setImageAssetId(Long imageAssetId) {
+        this.imageAssetId = imageAssetId;
+    }
+
     public String getBarcode() {
         return barcode;
     }
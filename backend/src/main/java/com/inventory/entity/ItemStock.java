@@ -0,0 +1,127 @@
+package com.inventory.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+/**
+ * Quantity of one item held at one warehouse. Each site writes only its own rows,
+ * so stock movements at different warehouses never contend on the same row.
+ */
+@Entity
+@Table(
+    name = "item_stock",
+    uniqueConstraints = @UniqueConstraint(name = "uk_item_stock_item_warehouse", columnNames = {"item_id", "warehouse_id"}),
+    // Covers the per-warehouse stock and low-stock queries so they are answered from the index alone
+    indexes = @Index(name = "idx_item_stock_warehouse", columnList = "warehouse_id, item_id, quantity, low_stock_threshold")
+)
+public class ItemStock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "item_id", nullable = false)
+    private Long itemId;
+
+    @NotNull
+    @Column(name = "warehouse_id", nullable = false)
+    private Long warehouseId;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 0, message = "Quantity must be non-negative")
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @NotNull
+    @Column(name = "low_stock_threshold", nullable = false)
+    private Integer lowStockThreshold = 10;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ItemStock() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public ItemStock(Long itemId, Long warehouseId, Integer quantity, Integer lowStockThreshold) {
+        this();
+        this.itemId = itemId;
+        this.warehouseId = warehouseId;
+        this.quantity = quantity;
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public Long getWarehouseId() {
+        return warehouseId;
+    }
+
+    public void setWarehouseId(Long warehouseId) {
+        this.warehouseId = warehouseId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Integer getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    public void setLowStockThreshold(Integer lowStockThreshold) {
+        this.lowStockThreshold = lowStockThreshold;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    // Business methods
+    public boolean isLowStock() {
+        return quantity <= lowStockThreshold;
+    }
+
+    @PreUpdate
+    public void preUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public String toString() {
+        return "ItemStock{" +
+                "id=" + id +
+                ", itemId=" + itemId +
+                ", warehouseId=" + warehouseId +
+                ", quantity=" + quantity +
+                ", lowStockThreshold=" + lowStockThreshold +
+                '}';
+    }
+}
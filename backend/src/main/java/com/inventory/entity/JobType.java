@@ -0,0 +1,6 @@
+package com.inventory.entity;
+
+public enum JobType {
+    // Re-generate barcode and QR code data for every inventory item
+    BARCODE_REGENERATION
+}
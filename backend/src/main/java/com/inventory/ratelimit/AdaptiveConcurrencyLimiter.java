@@ -0,0 +1,101 @@
+package com.inventory.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency-based concurrency limit in the style of the gradient algorithm: the limit
+ * grows while recent latency stays close to the long-term baseline and shrinks as
+ * soon as requests start queueing, so excess load is shed before queues build up.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SHORT_RTT_WEIGHT = 0.25;
+    private static final double LONG_RTT_WEIGHT = 1.0 / 600;
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Reserve a slot for a request.
+     *
+     * @return false if the current limit is reached and the request should be shed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a slot and feed the request's latency into the limit.
+     */
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            onSample(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_RTT_WEIGHT;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+
+        // Let the baseline follow latency back down after a sustained slowdown
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        // Well under the limit the latency says nothing about capacity
+        double current = limit;
+        if (inFlightAtCompletion < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+        double newLimit = current * gradient + Math.sqrt(current);
+        newLimit = current * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Suggested client back-off, roughly the time for the current queue to drain.
+     */
+    public synchronized long getRetryAfterNanos() {
+        return (long) shortRttNanos;
+    }
+}
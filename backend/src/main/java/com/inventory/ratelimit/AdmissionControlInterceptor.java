@@ -0,0 +1,116 @@
+package com.inventory.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for one group of endpoints: a per-client token bucket answers
+ * 429 to clients exceeding their rate, and an adaptive concurrency limit answers
+ * 503 once the group as a whole is saturated. Both responses carry Retry-After.
+ *
+ * <p>Clients identify themselves with a device id header, which is not
+ * authenticated. A second, more generous bucket per remote address therefore caps
+ * what a single address can get through by rotating or omitting device ids.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+
+    private final String clientHeader;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final TokenBucketRateLimiter addressRateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter admitted;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public AdmissionControlInterceptor(String group, String clientHeader, TokenBucketRateLimiter rateLimiter,
+                                       TokenBucketRateLimiter addressRateLimiter, AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                       MeterRegistry meterRegistry) {
+        this.clientHeader = clientHeader;
+        this.rateLimiter = rateLimiter;
+        this.addressRateLimiter = addressRateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.admitted = admissionCounter(meterRegistry, group, "admitted");
+        this.rateLimited = admissionCounter(meterRegistry, group, "rate_limited");
+        this.shed = admissionCounter(meterRegistry, group, "shed");
+
+        Gauge.builder("inventory.admission.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("group", group).register(meterRegistry);
+        Gauge.builder("inventory.admission.concurrency.in_flight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .tag("group", group).register(meterRegistry);
+        Gauge.builder("inventory.admission.clients", rateLimiter, TokenBucketRateLimiter::trackedClients)
+                .tag("group", group).register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request));
+        if (waitNanos == 0) {
+            waitNanos = addressRateLimiter.tryAcquire(request.getRemoteAddr());
+        }
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Too many requests, please slow down");
+            return false;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, concurrencyLimiter.getRetryAfterNanos(), "Server is busy, please retry");
+            return false;
+        }
+
+        admitted.increment();
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start instanceof Long startNanos) {
+            request.removeAttribute(START_ATTRIBUTE);
+            // Failed requests release their slot but say nothing useful about latency
+            concurrencyLimiter.release(ex == null ? System.nanoTime() - startNanos : 0);
+        }
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String deviceId = clientHeader.isEmpty() ? null : request.getHeader(clientHeader);
+        if (deviceId != null && !deviceId.isBlank()) {
+            return "device:" + deviceId.trim();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterNanos, String message) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + 999_999_999L));
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+
+    private static Counter admissionCounter(MeterRegistry meterRegistry, String group, String outcome) {
+        return Counter.builder("inventory.admission.requests")
+                .description("Requests admitted or rejected by admission control")
+                .tag("group", group)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
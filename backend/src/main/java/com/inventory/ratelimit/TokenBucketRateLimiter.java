@@ -0,0 +1,73 @@
+package com.inventory.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Token buckets keyed by client. Buckets live in a {@link ConcurrentHashMap}, so
+ * lookups for different clients never share a lock, and each bucket is updated
+ * with a compare-and-set loop rather than synchronisation.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = 10_000_000_000L;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final int maxTrackedClients;
+    private final long idleNanos;
+    private final ConcurrentHashMap<String, AtomicReference<Bucket>> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    public TokenBucketRateLimiter(double requestsPerSecond, int burst, int maxTrackedClients) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.capacity = burst;
+        this.tokensPerNano = requestsPerSecond / 1_000_000_000d;
+        this.maxTrackedClients = maxTrackedClients;
+        // A bucket idle for a full refill is indistinguishable from a new one
+        this.idleNanos = (long) (capacity / tokensPerNano);
+    }
+
+    /**
+     * Take one token for the client.
+     *
+     * @return 0 if the request is admitted, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String clientKey) {
+        return tryAcquire(clientKey, System.nanoTime());
+    }
+
+    long tryAcquire(String clientKey, long now) {
+        AtomicReference<Bucket> ref = buckets.computeIfAbsent(clientKey, key -> new AtomicReference<>(new Bucket(capacity, now)));
+        maybeSweep(now);
+
+        while (true) {
+            Bucket current = ref.get();
+            double tokens = Math.min(capacity, current.tokens + Math.max(0, now - current.updatedAt) * tokensPerNano);
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) / tokensPerNano);
+            }
+            if (ref.compareAndSet(current, new Bucket(tokens - 1, Math.max(now, current.updatedAt)))) {
+                return 0;
+            }
+        }
+    }
+
+    public int trackedClients() {
+        return buckets.size();
+    }
+
+    private void maybeSweep(long now) {
+        long last = lastSweep.get();
+        if (buckets.size() <= maxTrackedClients || now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        buckets.values().removeIf(ref -> now - ref.get().updatedAt > idleNanos);
+    }
+
+    private record Bucket(double tokens, long updatedAt) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ImageAssetDTO;
+import com.inventory.entity.ImageAsset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ImageAssetRepository extends JpaRepository<ImageAsset, Long> {
+
+    // Find an already ingested image by content hash (avoids loading the renditions)
+    @Query("SELECT new com.inventory.dto.ImageAssetDTO(a.id, a.contentHash, a.originalWidth, a.originalHeight) " +
+           "FROM ImageAsset a WHERE a.contentHash = :contentHash")
+    Optional<ImageAssetDTO> findSummaryByContentHash(@Param("contentHash") String contentHash);
+
+    // Load only the thumbnail rendition
+    @Query("SELECT a.thumbnail FROM ImageAsset a WHERE a.id = :id")
+    Optional<byte[]> findThumbnailById(@Param("id") Long id);
+
+    // Load only the medium rendition
+    @Query("SELECT a.medium FROM ImageAsset a WHERE a.id = :id")
+    Optional<byte[]> findMediumById(@Param("id") Long id);
+}
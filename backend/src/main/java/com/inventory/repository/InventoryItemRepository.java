@@ -1,11 +1,16 @@
 package com.inventory.repository;
 
+import com.inventory.dto.InventoryItemDTO;
 import com.inventory.entity.InventoryItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +24,24 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
     @Query("SELECT i FROM InventoryItem i WHERE i.quantity <= i.lowStockThreshold")
     List<InventoryItem> findLowStockItems();
 
+    // Count items with low stock
+    @Query("SELECT COUNT(i) FROM InventoryItem i WHERE i.quantity <= i.lowStockThreshold")
+    long countLowStockItems();
+
+    // List view of all items; skips the legacy inline image column
+    @Query("SELECT new com.inventory.dto.InventoryItemDTO(i.id, i.name, i.quantity, i.lowStockThreshold, " +
+           "i.barcode, i.qrCode, i.imageAssetId) FROM InventoryItem i")
+    List<InventoryItemDTO> findAllSummaries();
+
+    // List view of items with low stock; skips the legacy inline image column
+    @Query("SELECT new com.inventory.dto.InventoryItemDTO(i.id, i.name, i.quantity, i.lowStockThreshold, " +
+           "i.barcode, i.qrCode, i.imageAssetId) FROM InventoryItem i WHERE i.quantity <= i.lowStockThreshold")
+    List<InventoryItemDTO> findLowStockSummaries();
+
+    // Page of items with low stock
+    @Query("SELECT i FROM InventoryItem i WHERE i.quantity <= i.lowStockThreshold")
+    List<InventoryItem> findLowStockItems(Pageable pageable);
+
     // Find items with low stock by threshold
     @Query("SELECT i FROM InventoryItem i WHERE i.quantity <= :threshold")
     List<InventoryItem> findLowStockItemsByThreshold(@Param("threshold") Integer threshold);
@@ -49,4 +72,14 @@ public interface InventoryItemRepository extends JpaRepository<InventoryItem, Lo
 
     // Check if QR code exists
     boolean existsByQrCode(String qrCode);
+
+    // Keyset page of items after the given id, used by chunked jobs
+    List<InventoryItem> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Refresh the global quantity of the given items from their per-warehouse stock
+    @Modifying
+    @Transactional
+    @Query("UPDATE InventoryItem i SET i.quantity = " +
+           "(SELECT COALESCE(SUM(s.quantity), 0) FROM ItemStock s WHERE s.itemId = i.id) WHERE i.id IN :ids")
+    int refreshQuantitiesFromStock(@Param("ids") Collection<Long> ids);
 } 
\ No newline at end of file
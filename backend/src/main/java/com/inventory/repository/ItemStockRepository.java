@@ -0,0 +1,64 @@
+package com.inventory.repository;
+
+import com.inventory.dto.ItemStockDTO;
+import com.inventory.entity.ItemStock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ItemStockRepository extends JpaRepository<ItemStock, Long> {
+
+    // Whether the item has per-warehouse stock at all
+    boolean existsByItemId(Long itemId);
+
+    // Keyset page of ids of items with per-warehouse stock, used to reconcile totals in batches
+    @Query("SELECT DISTINCT s.itemId FROM ItemStock s WHERE s.itemId > :afterId ORDER BY s.itemId")
+    List<Long> findItemIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Stock held at one warehouse; selects only indexed columns
+    @Query("SELECT new com.inventory.dto.ItemStockDTO(s.itemId, s.warehouseId, s.quantity, s.lowStockThreshold) " +
+           "FROM ItemStock s WHERE s.warehouseId = :warehouseId ORDER BY s.itemId")
+    List<ItemStockDTO> findStockByWarehouse(@Param("warehouseId") Long warehouseId);
+
+    // Low stock at one warehouse; selects only indexed columns
+    @Query("SELECT new com.inventory.dto.ItemStockDTO(s.itemId, s.warehouseId, s.quantity, s.lowStockThreshold) " +
+           "FROM ItemStock s WHERE s.warehouseId = :warehouseId AND s.quantity <= s.lowStockThreshold ORDER BY s.itemId")
+    List<ItemStockDTO> findLowStockByWarehouse(@Param("warehouseId") Long warehouseId);
+
+    // Per-warehouse breakdown for one item
+    @Query("SELECT new com.inventory.dto.ItemStockDTO(s.itemId, s.warehouseId, s.quantity, s.lowStockThreshold) " +
+           "FROM ItemStock s WHERE s.itemId = :itemId ORDER BY s.warehouseId")
+    List<ItemStockDTO> findStockByItem(@Param("itemId") Long itemId);
+
+    // Stock of one item at one warehouse
+    @Query("SELECT new com.inventory.dto.ItemStockDTO(s.itemId, s.warehouseId, s.quantity, s.lowStockThreshold) " +
+           "FROM ItemStock s WHERE s.itemId = :itemId AND s.warehouseId = :warehouseId")
+    Optional<ItemStockDTO> findStock(@Param("itemId") Long itemId, @Param("warehouseId") Long warehouseId);
+
+    // Atomically apply a stock movement; returns 0 if the row is missing or would go negative
+    @Modifying
+    @Transactional
+    @Query("UPDATE ItemStock s SET s.quantity = s.quantity + :delta, s.updatedAt = :now " +
+           "WHERE s.itemId = :itemId AND s.warehouseId = :warehouseId AND s.quantity + :delta >= 0")
+    int adjustQuantity(@Param("itemId") Long itemId, @Param("warehouseId") Long warehouseId,
+                       @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // Overwrite the stock level; returns 0 if the row is missing
+    @Modifying
+    @Transactional
+    @Query("UPDATE ItemStock s SET s.quantity = :quantity, " +
+           "s.lowStockThreshold = COALESCE(:lowStockThreshold, s.lowStockThreshold), s.updatedAt = :now " +
+           "WHERE s.itemId = :itemId AND s.warehouseId = :warehouseId")
+    int setQuantity(@Param("itemId") Long itemId, @Param("warehouseId") Long warehouseId,
+                    @Param("quantity") int quantity, @Param("lowStockThreshold") Integer lowStockThreshold,
+                    @Param("now") LocalDateTime now);
+}
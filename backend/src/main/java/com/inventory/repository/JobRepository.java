@@ -0,0 +1,87 @@
+package com.inventory.repository;
+
+import com.inventory.entity.Job;
+import com.inventory.entity.JobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    // Jobs waiting for a worker, oldest first
+    List<Job> findByStatusOrderByCreatedAtAsc(JobStatus status);
+
+    // Most recent jobs for listing
+    List<Job> findTop50ByOrderByCreatedAtDesc();
+
+    // Claim a queued job under a lease token unique to this claim; returns 0 if another worker got there first
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = com.inventory.entity.JobStatus.RUNNING, j.startedAt = :now, j.updatedAt = :now, " +
+           "j.leaseOwner = :owner, j.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE j.id = :id AND j.status = com.inventory.entity.JobStatus.QUEUED")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("now") LocalDateTime now, @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // Return a claimed job to the queue when no worker could take it
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = com.inventory.entity.JobStatus.QUEUED, j.leaseOwner = null, " +
+           "j.leaseExpiresAt = null, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = com.inventory.entity.JobStatus.RUNNING")
+    int requeue(@Param("id") Long id, @Param("owner") String owner, @Param("now") LocalDateTime now);
+
+    // Record a finished chunk and renew the lease; returns 0 if the job has since been claimed again
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.checkpoint = :checkpoint, j.processedItems = j.processedItems + :processed, " +
+           "j.updatedAt = :now, j.leaseExpiresAt = :leaseExpiresAt " +
+           "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = com.inventory.entity.JobStatus.RUNNING")
+    int recordProgress(@Param("id") Long id, @Param("owner") String owner, @Param("checkpoint") Long checkpoint,
+                       @Param("processed") long processed, @Param("now") LocalDateTime now,
+                       @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.totalItems = :total, j.updatedAt = :now WHERE j.id = :id")
+    int updateTotal(@Param("id") Long id, @Param("total") Long total, @Param("now") LocalDateTime now);
+
+    // Finish a job under the lease token of the current claim
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :status, j.errorMessage = :error, j.finishedAt = :now, j.updatedAt = :now, " +
+           "j.leaseOwner = null, j.leaseExpiresAt = null " +
+           "WHERE j.id = :id AND j.leaseOwner = :owner AND j.status = com.inventory.entity.JobStatus.RUNNING")
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("status") JobStatus status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+
+    // Queued jobs are cancelled outright; returns 0 if the job is not queued
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = com.inventory.entity.JobStatus.CANCELLED, j.finishedAt = :now, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.inventory.entity.JobStatus.QUEUED")
+    int cancelQueued(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Running jobs stop at their next chunk boundary; returns 0 if the job is not running
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.cancelRequested = true, j.updatedAt = :now " +
+           "WHERE j.id = :id AND j.status = com.inventory.entity.JobStatus.RUNNING")
+    int requestCancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Running jobs whose lease lapsed (their instance died) go back to the queue and resume from their checkpoint
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = com.inventory.entity.JobStatus.QUEUED, j.leaseOwner = null, " +
+           "j.leaseExpiresAt = null, j.updatedAt = :now " +
+           "WHERE j.status = com.inventory.entity.JobStatus.RUNNING " +
+           "AND (j.leaseExpiresAt IS NULL OR j.leaseExpiresAt < :now)")
+    int requeueExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,18 @@
+package com.inventory.repository;
+
+import com.inventory.entity.Warehouse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WarehouseRepository extends JpaRepository<Warehouse, Long> {
+
+    // Find warehouse by code
+    Optional<Warehouse> findByCode(String code);
+
+    // All warehouses ordered by code
+    List<Warehouse> findAllByOrderByCodeAsc();
+}
@@ -0,0 +1,47 @@
+package com.inventory.service;
+
+import com.inventory.entity.InventoryItem;
+import com.inventory.entity.JobType;
+import com.inventory.repository.InventoryItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class BarcodeRegenerationJobHandler implements JobHandler {
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private BarcodeService barcodeService;
+
+    @Override
+    public JobType getType() {
+        return JobType.BARCODE_REGENERATION;
+    }
+
+    @Override
+    public long countWork() {
+        return inventoryItemRepository.count();
+    }
+
+    @Override
+    public Chunk processChunk(Long checkpoint, int chunkSize) {
+        long afterId = checkpoint != null ? checkpoint : 0L;
+        List<InventoryItem> items = inventoryItemRepository.findByIdGreaterThanOrderByIdAsc(
+            afterId, PageRequest.of(0, chunkSize)
+        );
+
+        for (InventoryItem item : items) {
+            item.setBarcode(barcodeService.generateUniqueBarcode(item.getId()));
+            item.setQrCode(barcodeService.generateQRCodeData(item.getId(), item.getName()));
+        }
+        inventoryItemRepository.saveAll(items);
+
+        Long nextCheckpoint = items.isEmpty() ? checkpoint : items.get(items.size() - 1).getId();
+        return new Chunk(nextCheckpoint, items.size(), items.size() < chunkSize);
+    }
+}
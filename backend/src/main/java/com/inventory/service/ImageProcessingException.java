@@ -0,0 +1,12 @@
+package com.inventory.service;
+
+/**
+ * Thrown when an uploaded image could not be processed for reasons other than an
+ * unreadable format or a saturated worker pool.
+ */
+public class ImageProcessingException extends RuntimeException {
+
+    public ImageProcessingException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,245 @@
+package com.inventory.service;
+
+import com.inventory.dto.ImageAssetDTO;
+import com.inventory.entity.ImageAsset;
+import com.inventory.repository.ImageAssetRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class ImageService {
+
+    public static final String RENDITION_CONTENT_TYPE = "image/jpeg";
+
+    @Autowired
+    private ImageAssetRepository imageAssetRepository;
+
+    @Autowired
+    @Qualifier("imageProcessingExecutor")
+    private ThreadPoolTaskExecutor imageProcessingExecutor;
+
+    @Value("${app.images.thumbnail-size:150}")
+    private int thumbnailSize;
+
+    @Value("${app.images.medium-size:600}")
+    private int mediumSize;
+
+    @Value("${app.images.jpeg-quality:0.8}")
+    private float jpegQuality;
+
+    @Value("${app.images.processing-timeout-seconds:30}")
+    private long processingTimeoutSeconds;
+
+    @Value("${app.images.url-prefix:/api/images}")
+    private String urlPrefix;
+
+    /**
+     * Ingest an uploaded image: deduplicate by content hash, otherwise decode it once on the
+     * image worker pool and store thumbnail and medium renditions.
+     *
+     * @throws RejectedExecutionException if the worker pool is saturated or processing times out
+     * @throws UnsupportedImageException if the upload is not a readable image
+     * @throws ImageProcessingException if the image could not be processed for any other reason
+     */
+    public ImageAssetDTO ingest(MultipartFile file) {
+        byte[] bytes;
+        try {
+            bytes = file.getBytes();
+        } catch (IOException e) {
+            throw new ImageProcessingException("Failed to read upload", e);
+        }
+        String contentHash = sha256Hex(bytes);
+
+        Optional<ImageAssetDTO> existing = imageAssetRepository.findSummaryByContentHash(contentHash);
+        if (existing.isPresent()) {
+            return withUrls(existing.get(), true);
+        }
+
+        Future<ImageAsset> rendered = imageProcessingExecutor.submit(() -> render(bytes, contentHash));
+        ImageAsset asset;
+        try {
+            asset = rendered.get(processingTimeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnsupportedImageException cause) {
+                throw cause;
+            }
+            throw new ImageProcessingException("Failed to process image", e.getCause());
+        } catch (TimeoutException e) {
+            rendered.cancel(true);
+            throw new RejectedExecutionException("Image processing timed out", e);
+        } catch (InterruptedException e) {
+            rendered.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ImageProcessingException("Interrupted while processing image", e);
+        }
+
+        try {
+            ImageAsset saved = imageAssetRepository.saveAndFlush(asset);
+            return withUrls(new ImageAssetDTO(
+                saved.getId(), contentHash, saved.getOriginalWidth(), saved.getOriginalHeight()
+            ), false);
+        } catch (DataIntegrityViolationException e) {
+            // The same image was ingested concurrently; reuse the stored copy
+            ImageAssetDTO stored = imageAssetRepository.findSummaryByContentHash(contentHash).orElseThrow(() -> e);
+            return withUrls(stored, true);
+        }
+    }
+
+    public Optional<byte[]> getThumbnail(Long id) {
+        return imageAssetRepository.findThumbnailById(id);
+    }
+
+    public Optional<byte[]> getMedium(Long id) {
+        return imageAssetRepository.findMediumById(id);
+    }
+
+    public String thumbnailUrl(Long imageId) {
+        return imageId == null ? null : urlPrefix + "/" + imageId + "/thumbnail";
+    }
+
+    public String mediumUrl(Long imageId) {
+        return imageId == null ? null : urlPrefix + "/" + imageId + "/medium";
+    }
+
+    /**
+     * Decode the source image once, subsampling while reading so very large photos never
+     * materialise at full resolution, then produce both renditions from the decoded image.
+     */
+    private ImageAsset render(byte[] bytes, String contentHash) throws IOException {
+        BufferedImage source;
+        int originalWidth;
+        int originalHeight;
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new UnsupportedImageException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                originalWidth = reader.getWidth(0);
+                originalHeight = reader.getHeight(0);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(originalWidth, originalHeight) / (mediumSize * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                source = reader.read(0, param);
+            } catch (IOException e) {
+                throw new UnsupportedImageException("Corrupt or truncated image", e);
+            } finally {
+                reader.dispose();
+            }
+        }
+
+        BufferedImage medium = scaleToFit(source, mediumSize);
+        BufferedImage thumbnail = scaleToFit(medium, thumbnailSize);
+
+        ImageAsset asset = new ImageAsset();
+        asset.setContentHash(contentHash);
+        asset.setOriginalWidth(originalWidth);
+        asset.setOriginalHeight(originalHeight);
+        asset.setOriginalSize((long) bytes.length);
+        asset.setContentType(RENDITION_CONTENT_TYPE);
+        asset.setMedium(encodeJpeg(medium));
+        asset.setThumbnail(encodeJpeg(thumbnail));
+        return asset;
+    }
+
+    /**
+     * Scale an image down so its longest side fits maxSize, halving in steps to keep
+     * bilinear filtering from aliasing on large reductions. Images are never upscaled.
+     */
+    private BufferedImage scaleToFit(BufferedImage image, int maxSize) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = image;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resize(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private BufferedImage resize(BufferedImage image, int width, int height) {
+        // JPEG has no alpha channel, so flatten onto white
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(baos)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return baos.toByteArray();
+    }
+
+    private ImageAssetDTO withUrls(ImageAssetDTO dto, boolean duplicate) {
+        dto.setThumbnailUrl(thumbnailUrl(dto.getId()));
+        dto.setMediumUrl(mediumUrl(dto.getId()));
+        dto.setDuplicate(duplicate);
+        return dto;
+    }
+
+    private static String sha256Hex(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
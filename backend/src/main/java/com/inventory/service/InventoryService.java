@@ -6,7 +6,9 @@ import com.inventory.repository.InventoryItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 import com.inventory.dto.DashboardStatsDTO;
@@ -21,6 +23,9 @@ public class InventoryService {
     @Autowired
     private BarcodeService barcodeService;
 
+    @Autowired
+    private ImageService imageService;
+
     @Value("${app.low-stock-threshold:10}")
     private Integer defaultLowStockThreshold;
 
@@ -49,73 +54,66 @@ public class InventoryService {
         // Save the item again to persist the new codes
         InventoryItem finalItem = inventoryItemRepository.save(savedItem);
 
-        // Manually convert InventoryItem to InventoryItemDTO since convertToDTO is undefined
-        InventoryItemDTO resultDTO = new InventoryItemDTO();
-        resultDTO.setId(finalItem.getId());
-        resultDTO.setName(finalItem.getName());
-        resultDTO.setQuantity(finalItem.getQuantity());
-        resultDTO.setLowStockThreshold(finalItem.getLowStockThreshold());
-        resultDTO.setBarcode(finalItem.getBarcode());
-        resultDTO.setQrCode(finalItem.getQrCode());
-        // Add other fields as needed
-
-        return resultDTO;
+        return convertToDTO(finalItem);
     }
 
     public List<InventoryItemDTO> getAllItems() {
-        List<InventoryItem> items = inventoryItemRepository.findAll();
-        List<InventoryItemDTO> dtos = new java.util.ArrayList<>();
-        for (InventoryItem item : items) {
-            InventoryItemDTO dto = new InventoryItemDTO();
-            dto.setId(item.getId());
-            dto.setName(item.getName());
-            dto.setQuantity(item.getQuantity());
-            dto.setLowStockThreshold(item.getLowStockThreshold());
-            dto.setBarcode(item.getBarcode());
-            dto.setQrCode(item.getQrCode());
-            // Add other fields as needed
-            dtos.add(dto);
-        }
+        List<InventoryItemDTO> dtos = inventoryItemRepository.findAllSummaries();
+        dtos.forEach(this::setImageUrls);
         return dtos;
     }
 
     public java.util.Optional<InventoryItemDTO> getItemById(Long id) {
-        return inventoryItemRepository.findById(id).map(item -> {
-            InventoryItemDTO dto = new InventoryItemDTO();
-            dto.setId(item.getId());
-            dto.setName(item.getName());
-            dto.setQuantity(item.getQuantity());
-            dto.setLowStockThreshold(item.getLowStockThreshold());
-            dto.setBarcode(item.getBarcode());
-            dto.setQrCode(item.getQrCode());
-            // Add other fields as needed
-            return dto;
-        });
+        return inventoryItemRepository.findById(id).map(this::convertToDTO);
     }
 
     public DashboardStatsDTO getDashboardStats() {
         DashboardStatsDTO stats = new DashboardStatsDTO();
         stats.setTotalItems(inventoryItemRepository.getTotalItemCount());
         stats.setTotalQuantity(inventoryItemRepository.getTotalQuantity());
-        stats.setLowStockItems(inventoryItemRepository.findLowStockItems().size());
+        stats.setLowStockItems(inventoryItemRepository.countLowStockItems());
         stats.setCategoryCounts(inventoryItemRepository.getCountByCategory());
         return stats;
     }
 
     public List<InventoryItemDTO> getLowStockItems() {
-        List<InventoryItem> items = inventoryItemRepository.findLowStockItems();
-        List<InventoryItemDTO> dtos = new java.util.ArrayList<>();
-        for (InventoryItem item : items) {
-            InventoryItemDTO dto = new InventoryItemDTO();
-            dto.setId(item.getId());
-            dto.setName(item.getName());
-            dto.setQuantity(item.getQuantity());
-            dto.setLowStockThreshold(item.getLowStockThreshold());
-            dto.setBarcode(item.getBarcode());
-            dto.setQrCode(item.getQrCode());
-            // Add other fields as needed
-            dtos.add(dto);
-        }
+        List<InventoryItemDTO> dtos = inventoryItemRepository.findLowStockSummaries();
+        dtos.forEach(this::setImageUrls);
         return dtos;
     }
-}
\ No newline at end of file
+
+    /**
+     * Ingest an image and attach it to an item. Runs outside a transaction so the
+     * decode and resize work does not hold a database connection.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public java.util.Optional<InventoryItemDTO> attachImage(Long id, MultipartFile file) {
+        if (!inventoryItemRepository.existsById(id)) {
+            return java.util.Optional.empty();
+        }
+        Long imageAssetId = imageService.ingest(file).getId();
+        return inventoryItemRepository.findById(id).map(item -> {
+            item.setImageAssetId(imageAssetId);
+            return convertToDTO(inventoryItemRepository.save(item));
+        });
+    }
+
+    private InventoryItemDTO convertToDTO(InventoryItem item) {
+        InventoryItemDTO dto = new InventoryItemDTO();
+        dto.setId(item.getId());
+        dto.setName(item.getName());
+        dto.setQuantity(item.getQuantity());
+        dto.setLowStockThreshold(item.getLowStockThreshold());
+        dto.setBarcode(item.getBarcode());
+        dto.setQrCode(item.getQrCode());
+        dto.setImageAssetId(item.getImageAssetId());
+        setImageUrls(dto);
+        return dto;
+    }
+
+    // Items return rendition URLs rather than inline image data
+    private void setImageUrls(InventoryItemDTO dto) {
+        dto.setThumbnailUrl(imageService.thumbnailUrl(dto.getImageAssetId()));
+        dto.setMediumUrl(imageService.mediumUrl(dto.getImageAssetId()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.inventory.service;
+
+import com.inventory.entity.JobType;
+
+/**
+ * A unit of bulk work run by {@link JobService}. Handlers process their input in
+ * chunks keyed by a checkpoint so a job can stop and resume at any chunk boundary.
+ */
+public interface JobHandler {
+
+    JobType getType();
+
+    /**
+     * Total units of work, used for progress reporting.
+     */
+    long countWork();
+
+    /**
+     * Process the next chunk after the given checkpoint. Called inside a transaction
+     * that also records the returned checkpoint, so a chunk is either fully applied
+     * and checkpointed or not at all.
+     *
+     * @param checkpoint the checkpoint returned by the previous chunk, or null on the first chunk
+     */
+    Chunk processChunk(Long checkpoint, int chunkSize) throws Exception;
+
+    record Chunk(Long checkpoint, int processed, boolean done) {
+    }
+}
@@ -0,0 +1,321 @@
+package com.inventory.service;
+
+import com.inventory.dto.JobDTO;
+import com.inventory.entity.Job;
+import com.inventory.entity.JobStatus;
+import com.inventory.entity.JobType;
+import com.inventory.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs long bulk operations off the servlet threads. Jobs are persisted, run in
+ * chunks on a bounded executor with a checkpoint committed after every chunk, and
+ * are limited to a configurable number of concurrent runs per job type.
+ *
+ * <p>A running job is held under a lease renewed with every chunk. Only jobs whose
+ * lease has lapsed are requeued, so during a rolling deploy a new instance never
+ * picks up jobs an old instance is still working on. Each claim gets its own lease
+ * token, so a stale run of a requeued job can never write alongside the new one,
+ * even on the same instance.
+ *
+ * <p>Progress subscribers may be connected to any instance, so subscribed jobs are
+ * also polled from the database and pushed when their row changes.
+ */
+// Eager even under lazy initialization, so the scheduled lease check and polling are registered
+@Service
+@Lazy(false)
+public class JobService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobService.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    @Qualifier("jobExecutor")
+    private ThreadPoolTaskExecutor jobExecutor;
+
+    @Value("${app.jobs.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.jobs.max-concurrent-per-type:1}")
+    private int maxConcurrentPerType;
+
+    @Value("${app.jobs.sse-timeout-ms:1800000}")
+    private long sseTimeoutMs;
+
+    @Value("${app.jobs.lease-timeout-seconds:300}")
+    private long leaseTimeoutSeconds;
+
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final Map<JobType, Semaphore> permits = new EnumMap<>(JobType.class);
+    private final Map<Long, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    // updatedAt of the last state pushed to each subscribed job's emitters
+    private final Map<Long, LocalDateTime> publishedVersions = new ConcurrentHashMap<>();
+
+    @Autowired
+    public void setHandlers(List<JobHandler> jobHandlers) {
+        for (JobHandler handler : jobHandlers) {
+            handlers.put(handler.getType(), handler);
+        }
+    }
+
+    public JobDTO submit(JobType type) {
+        if (!handlers.containsKey(type)) {
+            throw new IllegalArgumentException("No handler registered for job type " + type);
+        }
+        Job job = jobRepository.save(new Job(type));
+        dispatch();
+        return getJob(job.getId()).orElseThrow();
+    }
+
+    public Optional<JobDTO> getJob(Long id) {
+        return jobRepository.findById(id).map(this::convertToDTO);
+    }
+
+    public List<JobDTO> getRecentJobs() {
+        return jobRepository.findTop50ByOrderByCreatedAtDesc().stream().map(this::convertToDTO).toList();
+    }
+
+    /**
+     * Cancel a job. Queued jobs are cancelled immediately; running jobs stop after
+     * their current chunk, keeping everything committed so far.
+     *
+     * @throws IllegalStateException if the job has already finished
+     */
+    public Optional<JobDTO> cancel(Long id) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean cancelled = jobRepository.cancelQueued(id, now) > 0 || jobRepository.requestCancel(id, now) > 0;
+        Optional<JobDTO> job = getJob(id);
+        if (job.isPresent() && !cancelled) {
+            throw new IllegalStateException("Job " + id + " has already finished with status " + job.get().getStatus());
+        }
+        job.ifPresent(this::publish);
+        return job;
+    }
+
+    /**
+     * Stream progress events for a job. The current state is sent immediately and
+     * the stream completes once the job reaches a terminal status.
+     */
+    public Optional<SseEmitter> subscribe(Long id) {
+        Optional<JobDTO> job = getJob(id);
+        if (job.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        emitters.compute(id, (key, jobEmitters) -> {
+            List<SseEmitter> list = jobEmitters != null ? jobEmitters : new CopyOnWriteArrayList<>();
+            list.add(emitter);
+            return list;
+        });
+        emitter.onCompletion(() -> unsubscribe(id, emitter));
+        emitter.onTimeout(() -> unsubscribe(id, emitter));
+        emitter.onError(e -> unsubscribe(id, emitter));
+
+        // Re-read after registering so a job finishing in between is not missed
+        getJob(id).ifPresent(this::publish);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Requeue jobs whose lease lapsed because their instance died, then start any
+     * queued work. Runs periodically and once from {@code StartupWarmUp}.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.lease-check-ms:60000}", initialDelayString = "${app.jobs.lease-check-ms:60000}")
+    public void requeueExpiredJobs() {
+        int requeued = jobRepository.requeueExpired(LocalDateTime.now());
+        if (requeued > 0) {
+            log.info("Requeued {} job(s) with expired leases", requeued);
+        }
+        dispatch();
+    }
+
+    /**
+     * Push changes to subscribed jobs made by any instance, including the one
+     * running them, so subscribers never depend on which instance they reached.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.sse-poll-ms:1000}")
+    public void pollSubscribedJobs() {
+        if (emitters.isEmpty()) {
+            return;
+        }
+        for (Job job : jobRepository.findAllById(emitters.keySet())) {
+            if (!Objects.equals(job.getUpdatedAt(), publishedVersions.get(job.getId()))) {
+                publish(convertToDTO(job));
+            }
+        }
+    }
+
+    /**
+     * Hand queued jobs to the executor while their type has a free permit.
+     */
+    private synchronized void dispatch() {
+        for (Job job : jobRepository.findByStatusOrderByCreatedAtAsc(JobStatus.QUEUED)) {
+            Semaphore permit = permits.computeIfAbsent(job.getType(), type -> new Semaphore(maxConcurrentPerType));
+            if (!permit.tryAcquire()) {
+                continue;
+            }
+            String leaseToken = UUID.randomUUID().toString();
+            LocalDateTime now = LocalDateTime.now();
+            if (jobRepository.claim(job.getId(), leaseToken, now, now.plusSeconds(leaseTimeoutSeconds)) == 0) {
+                permit.release();
+                continue;
+            }
+            try {
+                jobExecutor.execute(() -> run(job.getId(), job.getType(), leaseToken, permit));
+            } catch (RejectedExecutionException e) {
+                permit.release();
+                jobRepository.requeue(job.getId(), leaseToken, LocalDateTime.now());
+                return;
+            }
+        }
+    }
+
+    private void run(Long jobId, JobType type, String leaseToken, Semaphore permit) {
+        JobHandler handler = handlers.get(type);
+        try {
+            Job job = jobRepository.findById(jobId).orElseThrow();
+            if (job.getTotalItems() == null) {
+                jobRepository.updateTotal(jobId, handler.countWork(), LocalDateTime.now());
+            }
+            getJob(jobId).ifPresent(this::publish);
+
+            Long checkpoint = job.getCheckpoint();
+            while (true) {
+                if (jobRepository.findById(jobId).map(Job::isCancelRequested).orElse(true)) {
+                    finish(jobId, leaseToken, JobStatus.CANCELLED, null);
+                    return;
+                }
+
+                Long from = checkpoint;
+                JobHandler.Chunk chunk = transactionTemplate.execute(status -> {
+                    try {
+                        JobHandler.Chunk result = handler.processChunk(from, chunkSize);
+                        LocalDateTime now = LocalDateTime.now();
+                        if (jobRepository.recordProgress(jobId, leaseToken, result.checkpoint(), result.processed(),
+                                now, now.plusSeconds(leaseTimeoutSeconds)) == 0) {
+                            // Rolls the chunk back; whoever holds the job now redoes it
+                            throw new LeaseLostException(jobId);
+                        }
+                        return result;
+                    } catch (RuntimeException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                });
+                checkpoint = chunk.checkpoint();
+                getJob(jobId).ifPresent(this::publish);
+
+                if (chunk.done()) {
+                    finish(jobId, leaseToken, JobStatus.SUCCEEDED, null);
+                    return;
+                }
+            }
+        } catch (LeaseLostException e) {
+            log.warn("Stopped job {}: its lease expired and it was claimed again", jobId);
+        } catch (Exception e) {
+            log.error("Job {} failed", jobId, e);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finish(jobId, leaseToken, JobStatus.FAILED, message.length() > 1000 ? message.substring(0, 1000) : message);
+        } finally {
+            permit.release();
+            dispatch();
+        }
+    }
+
+    private void finish(Long jobId, String leaseToken, JobStatus status, String errorMessage) {
+        jobRepository.finish(jobId, leaseToken, status, errorMessage, LocalDateTime.now());
+        getJob(jobId).ifPresent(this::publish);
+    }
+
+    private void publish(JobDTO job) {
+        List<SseEmitter> jobEmitters = emitters.get(job.getId());
+        if (jobEmitters == null) {
+            return;
+        }
+        if (job.getUpdatedAt() != null) {
+            publishedVersions.put(job.getId(), job.getUpdatedAt());
+        }
+        for (SseEmitter emitter : jobEmitters) {
+            try {
+                emitter.send(SseEmitter.event().name("progress").data(job));
+                if (job.getStatus().isTerminal()) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(job.getId(), emitter);
+            }
+        }
+        if (job.getStatus().isTerminal()) {
+            emitters.remove(job.getId());
+            publishedVersions.remove(job.getId());
+        }
+    }
+
+    private void unsubscribe(Long jobId, SseEmitter emitter) {
+        emitters.computeIfPresent(jobId, (key, jobEmitters) -> {
+            jobEmitters.remove(emitter);
+            if (jobEmitters.isEmpty()) {
+                publishedVersions.remove(key);
+                return null;
+            }
+            return jobEmitters;
+        });
+    }
+
+    private JobDTO convertToDTO(Job job) {
+        JobDTO dto = new JobDTO();
+        dto.setId(job.getId());
+        dto.setType(job.getType());
+        dto.setStatus(job.getStatus());
+        dto.setTotalItems(job.getTotalItems());
+        dto.setProcessedItems(job.getProcessedItems());
+        if (job.getTotalItems() != null && job.getTotalItems() > 0) {
+            dto.setPercentComplete((int) Math.min(100, job.getProcessedItems() * 100 / job.getTotalItems()));
+        } else if (job.getStatus() == JobStatus.SUCCEEDED) {
+            dto.setPercentComplete(100);
+        }
+        dto.setCancelRequested(job.isCancelRequested());
+        dto.setErrorMessage(job.getErrorMessage());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setStartedAt(job.getStartedAt());
+        dto.setFinishedAt(job.getFinishedAt());
+        dto.setUpdatedAt(job.getUpdatedAt());
+        return dto;
+    }
+
+    private static class LeaseLostException extends RuntimeException {
+        LeaseLostException(Long jobId) {
+            super("Lease on job " + jobId + " was lost");
+        }
+    }
+}
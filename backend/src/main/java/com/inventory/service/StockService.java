@@ -0,0 +1,264 @@
+package com.inventory.service;
+
+import com.inventory.dto.ItemStockDTO;
+import com.inventory.dto.WarehouseDTO;
+import com.inventory.entity.InventoryItem;
+import com.inventory.entity.ItemStock;
+import com.inventory.entity.Warehouse;
+import com.inventory.repository.InventoryItemRepository;
+import com.inventory.repository.ItemStockRepository;
+import com.inventory.repository.WarehouseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Per-warehouse stock. Movements only touch the (item, warehouse) row; the global
+ * {@link InventoryItem#getQuantity()} is maintained as an aggregate by a single
+ * background refresh, so writers at different sites never share a hot row.
+ *
+ * <p>Items created before warehouses existed only have a global quantity. On an
+ * item's first per-warehouse write that quantity is moved into the legacy warehouse,
+ * so switching the item over to the aggregate never loses stock.
+ */
+// Eager even under lazy initialization, so the scheduled aggregate refresh is registered
+@Service
+@Lazy(false)
+public class StockService {
+
+    private static final Logger log = LoggerFactory.getLogger(StockService.class);
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Autowired
+    private ItemStockRepository itemStockRepository;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Value("${app.stock.aggregate-batch-size:500}")
+    private int aggregateBatchSize;
+
+    @Value("${app.stock.legacy-warehouse-code:DEFAULT}")
+    private String legacyWarehouseCode;
+
+    // Items whose global quantity is stale
+    private final Set<Long> dirtyItemIds = ConcurrentHashMap.newKeySet();
+
+    public List<WarehouseDTO> getAllWarehouses() {
+        return warehouseRepository.findAllByOrderByCodeAsc().stream().map(this::convertToDTO).toList();
+    }
+
+    /**
+     * @throws IllegalStateException if a warehouse with the same code exists
+     */
+    public WarehouseDTO createWarehouse(WarehouseDTO warehouseDTO) {
+        try {
+            Warehouse saved = warehouseRepository.saveAndFlush(
+                new Warehouse(warehouseDTO.getCode().trim(), warehouseDTO.getName().trim())
+            );
+            return convertToDTO(saved);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException("Warehouse " + warehouseDTO.getCode() + " already exists", e);
+        }
+    }
+
+    public Optional<List<ItemStockDTO>> getStockByWarehouse(String warehouseCode) {
+        return warehouseRepository.findByCode(warehouseCode)
+                .map(warehouse -> withCode(itemStockRepository.findStockByWarehouse(warehouse.getId()), warehouse));
+    }
+
+    public Optional<List<ItemStockDTO>> getLowStockByWarehouse(String warehouseCode) {
+        return warehouseRepository.findByCode(warehouseCode)
+                .map(warehouse -> withCode(itemStockRepository.findLowStockByWarehouse(warehouse.getId()), warehouse));
+    }
+
+    public List<ItemStockDTO> getStockByItem(Long itemId) {
+        List<ItemStockDTO> stock = itemStockRepository.findStockByItem(itemId);
+        Map<Long, String> codes = warehouseRepository.findAllById(
+            stock.stream().map(ItemStockDTO::getWarehouseId).collect(Collectors.toSet())
+        ).stream().collect(Collectors.toMap(Warehouse::getId, Warehouse::getCode));
+        stock.forEach(dto -> dto.setWarehouseCode(codes.get(dto.getWarehouseId())));
+        return stock;
+    }
+
+    /**
+     * Set the stock level of an item at a warehouse, creating the row on first use.
+     *
+     * @throws IllegalArgumentException if the warehouse or item does not exist
+     */
+    public ItemStockDTO setStock(String warehouseCode, Long itemId, int quantity, Integer lowStockThreshold) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Quantity must be non-negative");
+        }
+        Warehouse warehouse = requireWarehouse(warehouseCode);
+
+        if (itemStockRepository.setQuantity(itemId, warehouse.getId(), quantity, lowStockThreshold, LocalDateTime.now()) == 0) {
+            // The row may be the legacy one, which only exists after adopting the global quantity
+            adoptLegacyQuantity(itemId);
+            if (itemStockRepository.setQuantity(itemId, warehouse.getId(), quantity, lowStockThreshold, LocalDateTime.now()) == 0
+                    && !insertStock(itemId, warehouse.getId(), quantity, lowStockThreshold)) {
+                // Lost the race to create the row; apply the update to the winner's row
+                itemStockRepository.setQuantity(itemId, warehouse.getId(), quantity, lowStockThreshold, LocalDateTime.now());
+            }
+        }
+        dirtyItemIds.add(itemId);
+        return currentStock(itemId, warehouse);
+    }
+
+    /**
+     * Apply a stock movement at a warehouse.
+     *
+     * @return empty if the movement would take the quantity below zero
+     * @throws IllegalArgumentException if the warehouse or item does not exist
+     */
+    public Optional<ItemStockDTO> adjustStock(String warehouseCode, Long itemId, int delta) {
+        Warehouse warehouse = requireWarehouse(warehouseCode);
+
+        boolean applied = itemStockRepository.adjustQuantity(itemId, warehouse.getId(), delta, LocalDateTime.now()) > 0;
+        // A withdrawal can only draw on the legacy quantity at the legacy warehouse; elsewhere it fails without writing
+        if (!applied && (delta >= 0 || warehouse.getCode().equals(legacyWarehouseCode))) {
+            adoptLegacyQuantity(itemId);
+            applied = itemStockRepository.adjustQuantity(itemId, warehouse.getId(), delta, LocalDateTime.now()) > 0;
+        }
+        if (!applied && delta >= 0) {
+            applied = insertStock(itemId, warehouse.getId(), delta, null)
+                || itemStockRepository.adjustQuantity(itemId, warehouse.getId(), delta, LocalDateTime.now()) > 0;
+        }
+        if (!applied) {
+            if (!inventoryItemRepository.existsById(itemId)) {
+                throw new IllegalArgumentException("Item " + itemId + " not found");
+            }
+            return Optional.empty();
+        }
+        dirtyItemIds.add(itemId);
+        return Optional.of(currentStock(itemId, warehouse));
+    }
+
+    /**
+     * Fold pending stock movements into the items' global quantities. Runs on a
+     * single scheduler thread, which is the only writer of the aggregate.
+     */
+    @Scheduled(fixedDelayString = "${app.stock.aggregate-refresh-ms:1000}")
+    public void refreshAggregates() {
+        if (dirtyItemIds.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>(aggregateBatchSize);
+        Iterator<Long> it = dirtyItemIds.iterator();
+        while (it.hasNext()) {
+            batch.add(it.next());
+            it.remove();
+            if (batch.size() == aggregateBatchSize || !it.hasNext()) {
+                try {
+                    inventoryItemRepository.refreshQuantitiesFromStock(batch);
+                } catch (RuntimeException e) {
+                    dirtyItemIds.addAll(batch);
+                    throw e;
+                }
+                batch = new ArrayList<>(aggregateBatchSize);
+            }
+        }
+    }
+
+    /**
+     * Recompute the global quantity of every item with per-warehouse stock, picking up
+     * movements not folded in before a restart. Called once by StartupWarmUp; works in
+     * keyset batches so no statement locks more than a batch of item rows.
+     */
+    public void reconcileAggregates() {
+        PageRequest page = PageRequest.of(0, aggregateBatchSize);
+        int refreshed = 0;
+        List<Long> batch = itemStockRepository.findItemIdsAfter(0L, page);
+        while (!batch.isEmpty()) {
+            refreshed += inventoryItemRepository.refreshQuantitiesFromStock(batch);
+            batch = itemStockRepository.findItemIdsAfter(batch.get(batch.size() - 1), page);
+        }
+        log.info("Reconciled stock totals for {} item(s)", refreshed);
+    }
+
+    /**
+     * Move the global quantity of an item without per-warehouse stock into the legacy
+     * warehouse. Does nothing once the item has any stock row.
+     *
+     * @throws IllegalArgumentException if the item does not exist
+     */
+    private void adoptLegacyQuantity(Long itemId) {
+        if (itemStockRepository.existsByItemId(itemId)) {
+            return;
+        }
+        InventoryItem item = inventoryItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item " + itemId + " not found"));
+        Warehouse legacy = legacyWarehouse();
+        try {
+            itemStockRepository.saveAndFlush(
+                new ItemStock(itemId, legacy.getId(), item.getQuantity(), item.getLowStockThreshold())
+            );
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first write already adopted it
+        }
+    }
+
+    private Warehouse legacyWarehouse() {
+        return warehouseRepository.findByCode(legacyWarehouseCode).orElseGet(() -> {
+            try {
+                return warehouseRepository.saveAndFlush(new Warehouse(legacyWarehouseCode, "Default warehouse"));
+            } catch (DataIntegrityViolationException e) {
+                return warehouseRepository.findByCode(legacyWarehouseCode).orElseThrow(() -> e);
+            }
+        });
+    }
+
+    private boolean insertStock(Long itemId, Long warehouseId, int quantity, Integer lowStockThreshold) {
+        InventoryItem item = inventoryItemRepository.findById(itemId)
+                .orElseThrow(() -> new IllegalArgumentException("Item " + itemId + " not found"));
+        Integer threshold = lowStockThreshold != null ? lowStockThreshold : item.getLowStockThreshold();
+        try {
+            itemStockRepository.saveAndFlush(new ItemStock(itemId, warehouseId, quantity, threshold));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private ItemStockDTO currentStock(Long itemId, Warehouse warehouse) {
+        ItemStockDTO dto = itemStockRepository.findStock(itemId, warehouse.getId()).orElseThrow();
+        dto.setWarehouseCode(warehouse.getCode());
+        return dto;
+    }
+
+    private Warehouse requireWarehouse(String warehouseCode) {
+        return warehouseRepository.findByCode(warehouseCode)
+                .orElseThrow(() -> new IllegalArgumentException("Warehouse " + warehouseCode + " not found"));
+    }
+
+    private List<ItemStockDTO> withCode(List<ItemStockDTO> stock, Warehouse warehouse) {
+        stock.forEach(dto -> dto.setWarehouseCode(warehouse.getCode()));
+        return stock;
+    }
+
+    private WarehouseDTO convertToDTO(Warehouse warehouse) {
+        WarehouseDTO dto = new WarehouseDTO();
+        dto.setId(warehouse.getId());
+        dto.setCode(warehouse.getCode());
+        dto.setName(warehouse.getName());
+        return dto;
+    }
+}
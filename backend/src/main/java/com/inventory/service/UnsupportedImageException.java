@@ -0,0 +1,15 @@
+package com.inventory.service;
+
+/**
+ * Thrown when an upload is not an image in a format that can be decoded.
+ */
+public class UnsupportedImageException extends RuntimeException {
+
+    public UnsupportedImageException(String message) {
+        super(message);
+    }
+
+    public UnsupportedImageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
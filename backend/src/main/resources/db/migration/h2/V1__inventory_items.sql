@@ -0,0 +1,15 @@
+CREATE TABLE inventory_items (
+    id                  BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    name                VARCHAR(255) NOT NULL,
+    quantity            INTEGER      NOT NULL,
+    category            VARCHAR(255) NOT NULL,
+    image               CLOB,
+    barcode             VARCHAR(255),
+    qr_code             VARCHAR(255),
+    low_stock_threshold INTEGER,
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_inventory_items_barcode UNIQUE (barcode),
+    CONSTRAINT uk_inventory_items_qr_code UNIQUE (qr_code)
+);
@@ -0,0 +1,60 @@
+-- Image renditions
+CREATE TABLE image_assets (
+    id              BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    content_hash    VARCHAR(64)  NOT NULL,
+    original_width  INTEGER,
+    original_height INTEGER,
+    original_size   BIGINT,
+    content_type    VARCHAR(255) NOT NULL,
+    thumbnail       BLOB         NOT NULL,
+    medium          BLOB         NOT NULL,
+    created_at      TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_image_assets_content_hash UNIQUE (content_hash)
+);
+
+ALTER TABLE inventory_items ADD COLUMN image_asset_id BIGINT;
+
+-- Background jobs
+CREATE TABLE jobs (
+    id               BIGINT        GENERATED BY DEFAULT AS IDENTITY,
+    type             VARCHAR(64)   NOT NULL,
+    status           VARCHAR(16)   NOT NULL,
+    total_items      BIGINT,
+    processed_items  BIGINT        NOT NULL,
+    checkpoint       BIGINT,
+    cancel_requested BOOLEAN       NOT NULL,
+    lease_owner      VARCHAR(64),
+    lease_expires_at TIMESTAMP(6),
+    error_message    VARCHAR(1000),
+    created_at       TIMESTAMP(6),
+    started_at       TIMESTAMP(6),
+    finished_at      TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_jobs_status_created ON jobs (status, created_at);
+
+-- Per-warehouse stock
+CREATE TABLE warehouses (
+    id         BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    code       VARCHAR(32)  NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_warehouses_code UNIQUE (code)
+);
+
+CREATE TABLE item_stock (
+    id                  BIGINT  GENERATED BY DEFAULT AS IDENTITY,
+    item_id             BIGINT  NOT NULL,
+    warehouse_id        BIGINT  NOT NULL,
+    quantity            INTEGER NOT NULL,
+    low_stock_threshold INTEGER NOT NULL,
+    updated_at          TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_item_stock_item_warehouse UNIQUE (item_id, warehouse_id)
+);
+
+CREATE INDEX idx_item_stock_warehouse ON item_stock (warehouse_id, item_id, quantity, low_stock_threshold);
@@ -0,0 +1,15 @@
+CREATE TABLE inventory_items (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    name                VARCHAR(255) NOT NULL,
+    quantity            INT          NOT NULL,
+    category            VARCHAR(255) NOT NULL,
+    image               TEXT,
+    barcode             VARCHAR(255),
+    qr_code             VARCHAR(255),
+    low_stock_threshold INT,
+    created_at          DATETIME(6),
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_inventory_items_barcode UNIQUE (barcode),
+    CONSTRAINT uk_inventory_items_qr_code UNIQUE (qr_code)
+) ENGINE = InnoDB;
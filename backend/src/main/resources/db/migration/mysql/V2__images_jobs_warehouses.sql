@@ -0,0 +1,58 @@
+-- Image renditions
+CREATE TABLE image_assets (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    content_hash    VARCHAR(64)  NOT NULL,
+    original_width  INT,
+    original_height INT,
+    original_size   BIGINT,
+    content_type    VARCHAR(255) NOT NULL,
+    thumbnail       MEDIUMBLOB   NOT NULL,
+    medium          MEDIUMBLOB   NOT NULL,
+    created_at      DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_image_assets_content_hash UNIQUE (content_hash)
+) ENGINE = InnoDB;
+
+ALTER TABLE inventory_items ADD COLUMN image_asset_id BIGINT;
+
+-- Background jobs
+CREATE TABLE jobs (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    type             VARCHAR(64)   NOT NULL,
+    status           VARCHAR(16)   NOT NULL,
+    total_items      BIGINT,
+    processed_items  BIGINT        NOT NULL,
+    checkpoint       BIGINT,
+    cancel_requested BIT(1)        NOT NULL,
+    lease_owner      VARCHAR(64),
+    lease_expires_at DATETIME(6),
+    error_message    VARCHAR(1000),
+    created_at       DATETIME(6),
+    started_at       DATETIME(6),
+    finished_at      DATETIME(6),
+    updated_at       DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_jobs_status_created (status, created_at)
+) ENGINE = InnoDB;
+
+-- Per-warehouse stock
+CREATE TABLE warehouses (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    code       VARCHAR(32)  NOT NULL,
+    name       VARCHAR(255) NOT NULL,
+    created_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_warehouses_code UNIQUE (code)
+) ENGINE = InnoDB;
+
+CREATE TABLE item_stock (
+    id                  BIGINT NOT NULL AUTO_INCREMENT,
+    item_id             BIGINT NOT NULL,
+    warehouse_id        BIGINT NOT NULL,
+    quantity            INT    NOT NULL,
+    low_stock_threshold INT    NOT NULL,
+    updated_at          DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_item_stock_item_warehouse UNIQUE (item_id, warehouse_id),
+    INDEX idx_item_stock_warehouse (warehouse_id, item_id, quantity, low_stock_threshold)
+) ENGINE = InnoDB;
@@ -0,0 +1,167 @@
+package com.inventory.controller;
+
+import com.inventory.dto.ItemStockDTO;
+import com.inventory.entity.InventoryItem;
+import com.inventory.entity.Warehouse;
+import com.inventory.repository.InventoryItemRepository;
+import com.inventory.repository.ItemStockRepository;
+import com.inventory.repository.WarehouseRepository;
+import com.inventory.service.StockService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "app.rate-limit.enabled=false",
+    "app.seed-data.enabled=false",
+    "app.warm-up.iterations=0"
+})
+@AutoConfigureMockMvc
+class WarehouseControllerTest {
+
+    private static final String LEGACY = "DEFAULT";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private InventoryItemRepository inventoryItemRepository;
+
+    @Autowired
+    private ItemStockRepository itemStockRepository;
+
+    @Autowired
+    private WarehouseRepository warehouseRepository;
+
+    @Test
+    void firstWriteAtAnotherWarehouseKeepsLegacyQuantity() throws Exception {
+        Long itemId = createItem(40);
+        String code = createWarehouse();
+
+        mockMvc.perform(put("/warehouses/{code}/stock/{itemId}", code, itemId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isOk());
+
+        assertEquals(Map.of(LEGACY, 40, code, 5), stockByWarehouse(itemId));
+        assertEquals(45, refreshedQuantity(itemId));
+    }
+
+    @Test
+    void withdrawalWithoutStockRowIsRejectedWithoutWriting() throws Exception {
+        Long itemId = createItem(40);
+        String code = createWarehouse();
+
+        mockMvc.perform(patch("/warehouses/{code}/stock/{itemId}", code, itemId).param("delta", "-1"))
+                .andExpect(status().isConflict());
+
+        assertFalse(itemStockRepository.existsByItemId(itemId));
+        assertEquals(40, inventoryItemRepository.findById(itemId).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void repeatedFirstWritesAdoptLegacyQuantityOnce() throws Exception {
+        Long itemId = createItem(40);
+        String first = createWarehouse();
+        String second = createWarehouse();
+
+        for (String code : List.of(first, first, second)) {
+            mockMvc.perform(patch("/warehouses/{code}/stock/{itemId}", code, itemId).param("delta", "2"))
+                    .andExpect(status().isOk());
+        }
+
+        assertEquals(Map.of(LEGACY, 40, first, 4, second, 2), stockByWarehouse(itemId));
+        assertEquals(46, refreshedQuantity(itemId));
+    }
+
+    @Test
+    void concurrentFirstWritesAdoptLegacyQuantityOnce() throws Exception {
+        Long itemId = createItem(40);
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            codes.add(createWarehouse());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(codes.size());
+        try {
+            List<Callable<Object>> writes = codes.stream()
+                    .map(code -> (Callable<Object>) () -> stockService.adjustStock(code, itemId, 1).orElseThrow())
+                    .toList();
+            for (Future<Object> write : executor.invokeAll(writes)) {
+                write.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<String, Integer> stock = stockByWarehouse(itemId);
+        assertEquals(40, stock.get(LEGACY));
+        assertEquals(codes.size() + 1, stock.size());
+        assertEquals(44, refreshedQuantity(itemId));
+    }
+
+    @Test
+    void unknownItemIsNotFound() throws Exception {
+        String code = createWarehouse();
+        long missing = Long.MAX_VALUE;
+
+        mockMvc.perform(put("/warehouses/{code}/stock/{itemId}", code, missing)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"quantity\": 5}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/warehouses/{code}/stock/{itemId}", code, missing).param("delta", "1"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/warehouses/{code}/stock/{itemId}", code, missing).param("delta", "-1"))
+                .andExpect(status().isNotFound());
+
+        assertFalse(itemStockRepository.existsByItemId(missing));
+    }
+
+    private Long createItem(int quantity) {
+        InventoryItem item = new InventoryItem();
+        item.setName("Item " + UUID.randomUUID());
+        item.setCategory("Test");
+        item.setQuantity(quantity);
+        item.setLowStockThreshold(10);
+        return inventoryItemRepository.save(item).getId();
+    }
+
+    private String createWarehouse() {
+        String code = "W" + UUID.randomUUID().toString().substring(0, 8);
+        warehouseRepository.save(new Warehouse(code, "Warehouse " + code));
+        return code;
+    }
+
+    private Map<String, Integer> stockByWarehouse(Long itemId) {
+        return stockService.getStockByItem(itemId).stream()
+                .collect(Collectors.toMap(ItemStockDTO::getWarehouseCode, ItemStockDTO::getQuantity));
+    }
+
+    // Refreshes directly rather than through the scheduled refresh, which may be running concurrently
+    private int refreshedQuantity(Long itemId) {
+        inventoryItemRepository.refreshQuantitiesFromStock(List.of(itemId));
+        return inventoryItemRepository.findById(itemId).orElseThrow().getQuantity();
+    }
+}
@@ -0,0 +1,87 @@
+package com.inventory.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    @Test
+    void rejectsOnceLimitIsReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(0);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    void growsWhileLatencyIsSteady() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+
+        runSaturated(limiter, 50, 10 * MILLISECOND);
+
+        assertTrue(limiter.getLimit() > 10, "limit was " + limiter.getLimit());
+    }
+
+    @Test
+    void shrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+        runSaturated(limiter, 50, 10 * MILLISECOND);
+        int grown = limiter.getLimit();
+
+        runSaturated(limiter, 10, 100 * MILLISECOND);
+
+        assertTrue(limiter.getLimit() < grown / 2, "limit went from " + grown + " to " + limiter.getLimit());
+        assertTrue(limiter.getRetryAfterNanos() > 50 * MILLISECOND);
+    }
+
+    @Test
+    void staysWithinBounds() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 4, 20);
+
+        runSaturated(limiter, 200, 10 * MILLISECOND);
+        assertEquals(20, limiter.getLimit());
+
+        // Few enough rounds that the long-term baseline has not caught up with the spike
+        runSaturated(limiter, 20, 1000 * MILLISECOND);
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void ignoresSamplesWhenLightlyLoaded() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100);
+        runSaturated(limiter, 1, 10 * MILLISECOND);
+        int limit = limiter.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(1000 * MILLISECOND);
+        }
+
+        assertEquals(limit, limiter.getLimit());
+    }
+
+    /**
+     * Fill every slot, then complete all requests with the same latency.
+     */
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.inventory.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdmissionControlInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void rateLimitedClientGets429WithRetryAfter() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(0.5, 1, 100, 10);
+
+        assertTrue(interceptor.preHandle(request("device-a", "10.0.0.1"), new MockHttpServletResponse(), null));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("device-a", "10.0.0.1"), response, null));
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(1.0, meterRegistry.get("inventory.admission.requests").tag("outcome", "rate_limited").counter().count());
+    }
+
+    @Test
+    void rotatingDeviceIdsAreCappedPerAddress() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(1, 1, 3, 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(request("device-" + i, "10.0.0.1"), new MockHttpServletResponse(), null));
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("device-3", "10.0.0.1"), response, null));
+        assertEquals(429, response.getStatus());
+        assertTrue(interceptor.preHandle(request("device-3", "10.0.0.2"), new MockHttpServletResponse(), null));
+    }
+
+    @Test
+    void saturatedGroupSheds503() throws Exception {
+        AdmissionControlInterceptor interceptor = interceptor(100, 100, 100, 1);
+        MockHttpServletRequest first = request("device-a", "10.0.0.1");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(interceptor.preHandle(request("device-b", "10.0.0.2"), response, null));
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader(HttpHeaders.RETRY_AFTER));
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        assertTrue(interceptor.preHandle(request("device-b", "10.0.0.2"), new MockHttpServletResponse(), null));
+    }
+
+    private AdmissionControlInterceptor interceptor(double rate, int burst, int addressBurst, int concurrency) {
+        return new AdmissionControlInterceptor(
+            "test",
+            "X-Device-Id",
+            new TokenBucketRateLimiter(rate, burst, 100),
+            new TokenBucketRateLimiter(rate, addressBurst, 100),
+            new AdaptiveConcurrencyLimiter(concurrency, concurrency, concurrency),
+            meterRegistry
+        );
+    }
+
+    private static MockHttpServletRequest request(String deviceId, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items");
+        request.addHeader("X-Device-Id", deviceId);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
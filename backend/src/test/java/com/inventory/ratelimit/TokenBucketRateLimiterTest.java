@@ -0,0 +1,63 @@
+package com.inventory.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final long START = 100 * SECOND;
+
+    @Test
+    void admitsBurstThenRejects() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 5, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("device:a", START));
+        }
+        assertTrue(limiter.tryAcquire("device:a", START) > 0);
+    }
+
+    @Test
+    void reportsWaitUntilNextToken() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("device:a", START));
+        // At 10 requests per second the next token is 100ms away
+        assertEquals(SECOND / 10, limiter.tryAcquire("device:a", START), SECOND / 1000);
+        assertEquals(SECOND / 20, limiter.tryAcquire("device:a", START + SECOND / 20), SECOND / 1000);
+    }
+
+    @Test
+    void refillsAtConfiguredRate() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("device:a", START));
+        assertTrue(limiter.tryAcquire("device:a", START + SECOND / 20) > 0);
+        assertEquals(0, limiter.tryAcquire("device:a", START + SECOND / 10 + 1));
+    }
+
+    @Test
+    void refillNeverExceedsBurst() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, 100);
+        assertEquals(0, limiter.tryAcquire("device:a", START));
+
+        long later = START + 60 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("device:a", later));
+        }
+        assertTrue(limiter.tryAcquire("device:a", later) > 0);
+    }
+
+    @Test
+    void limitsClientsIndependently() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1, 1, 100);
+
+        assertEquals(0, limiter.tryAcquire("device:a", START));
+        assertTrue(limiter.tryAcquire("device:a", START) > 0);
+        assertEquals(0, limiter.tryAcquire("device:b", START));
+        assertEquals(2, limiter.trackedClients());
+    }
+}
@@ -2,7 +2,7 @@ import React, { useState, useRef, useCallback, useEffect } from 'react';
 import { Card, Button, Alert, Spinner, Row, Col, Badge } from 'react-bootstrap';
 import Webcam from 'react-webcam';
 import { toast } from 'react-toastify';
-import { inventoryAPI } from '../services/api';
+import { inventoryAPI, resolveAssetUrl } from '../services/api';
 
 const BarcodeScanner = () => {
   const webcamRef = useRef(null);
@@ -234,9 +234,9 @@ const BarcodeScanner = () => {
               </Card.Header>
               <Card.Body>
                 <div className="text-center mb-3">
-                  {scannedItem.image && (
+                  {(scannedItem.thumbnailUrl || scannedItem.image) && (
                     <img
-                      src={scannedItem.image}
+                      src={resolveAssetUrl(scannedItem.thumbnailUrl) || scannedItem.image}
                       alt={scannedItem.name}
                       style={{ width: '100px', height: '100px', objectFit: 'cover' }}
                       className="rounded mb-2"
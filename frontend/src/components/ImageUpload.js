@@ -1,7 +1,7 @@
 import React, { useState, useRef } from 'react';
 import { Card, Button, Alert, Spinner, Row, Col, Badge, Form } from 'react-bootstrap';
 import { toast } from 'react-toastify';
-import { barcodeAPI, inventoryAPI } from '../services/api';
+import { barcodeAPI, inventoryAPI, resolveAssetUrl } from '../services/api';
 
 const ImageUpload = () => {
   const [selectedFile, setSelectedFile] = useState(null);
@@ -250,9 +250,9 @@ const ImageUpload = () => {
               </Card.Header>
               <Card.Body>
                 <div className="text-center mb-3">
-                  {foundItem.image && (
+                  {(foundItem.thumbnailUrl || foundItem.image) && (
                     <img
-                      src={foundItem.image}
+                      src={resolveAssetUrl(foundItem.thumbnailUrl) || foundItem.image}
                       alt={foundItem.name}
                       style={{ width: '80px', height: '80px', objectFit: 'cover' }}
                       className="rounded mb-2"
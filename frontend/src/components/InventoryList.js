@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { 
   Table, 
   Button, 
@@ -14,7 +14,7 @@ import {
   Dropdown
 } from 'react-bootstrap';
 import { toast } from 'react-toastify';
-import { inventoryAPI } from '../services/api';
+import { inventoryAPI, resolveAssetUrl } from '../services/api';
 
 const InventoryList = () => {
   const [items, setItems] = useState([]);
@@ -24,6 +24,8 @@ const InventoryList = () => {
   const [showEditModal, setShowEditModal] = useState(false);
   const [editingItem, setEditingItem] = useState(null);
   const [categories, setCategories] = useState([]);
+  const [photoItemId, setPhotoItemId] = useState(null);
+  const photoInputRef = useRef(null);
 
   useEffect(() => {
     loadItems();
@@ -97,6 +99,40 @@ const InventoryList = () => {
     }
   };
 
+  const choosePhoto = (id) => {
+    setPhotoItemId(id);
+    photoInputRef.current.click();
+  };
+
+  const handlePhotoSelect = async (event) => {
+    const file = event.target.files[0];
+    event.target.value = '';
+    if (!file || !photoItemId) {
+      return;
+    }
+
+    if (!file.type.startsWith('image/')) {
+      toast.error('Please select an image file');
+      return;
+    }
+
+    if (file.size > 10 * 1024 * 1024) {
+      toast.error('File size must be less than 10MB');
+      return;
+    }
+
+    try {
+      await inventoryAPI.uploadItemImage(photoItemId, file);
+      toast.success('Photo uploaded successfully');
+      loadItems();
+    } catch (error) {
+      toast.error('Failed to upload photo');
+      console.error('Photo upload error:', error);
+    } finally {
+      setPhotoItemId(null);
+    }
+  };
+
   const handleEdit = (item) => {
     setEditingItem({ ...item });
     setShowEditModal(true);
@@ -210,10 +246,10 @@ const InventoryList = () => {
                   <tr key={item.id}>
                     <td>
                       <strong>{item.name}</strong>
-                      {item.image && (
+                      {(item.thumbnailUrl || item.image) && (
                         <div>
                           <img 
-                            src={item.image} 
+                            src={resolveAssetUrl(item.thumbnailUrl) || item.image} 
                             alt={item.name} 
                             style={{ width: '50px', height: '50px', objectFit: 'cover' }}
                             className="mt-1"
@@ -268,6 +304,9 @@ const InventoryList = () => {
                           <Dropdown.Item onClick={() => handleEdit(item)}>
                             ✏️ Edit
                           </Dropdown.Item>
+                          <Dropdown.Item onClick={() => choosePhoto(item.id)}>
+                            📷 Upload Photo
+                          </Dropdown.Item>
                           <Dropdown.Item 
                             onClick={() => handleDelete(item.id)}
                             className="text-danger"
@@ -283,6 +322,14 @@ const InventoryList = () => {
             </Table>
           </div>
 
+          <Form.Control
+            ref={photoInputRef}
+            type="file"
+            accept="image/*"
+            onChange={handlePhotoSelect}
+            style={{ display: 'none' }}
+          />
+
           {filteredItems.length === 0 && (
             <Alert variant="info" className="text-center">
               No items found. Try adjusting your search criteria or add some items.
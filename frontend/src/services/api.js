@@ -2,10 +2,32 @@ import axios from 'axios';
 
 const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
 
+const DEVICE_ID_KEY = 'inventory.deviceId';
+
+// Stable per-device id, sent so the backend can rate limit each device separately
+const getDeviceId = () => {
+  try {
+    let deviceId = window.localStorage.getItem(DEVICE_ID_KEY);
+    if (!deviceId) {
+      deviceId = window.crypto && window.crypto.randomUUID
+        ? window.crypto.randomUUID()
+        : `${Date.now().toString(36)}-${Math.random().toString(36).slice(2)}`;
+      window.localStorage.setItem(DEVICE_ID_KEY, deviceId);
+    }
+    return deviceId;
+  } catch (e) {
+    // Storage unavailable (e.g. private mode); the backend falls back to the client address
+    return undefined;
+  }
+};
+
+const deviceId = getDeviceId();
+
 const api = axios.create({
   baseURL: API_BASE_URL,
   headers: {
     'Content-Type': 'application/json',
+    ...(deviceId && { 'X-Device-Id': deviceId }),
   },
 });
 
@@ -49,8 +71,45 @@ export const inventoryAPI = {
   
   // Update item quantity
   updateItemQuantity: (id, quantity) => api.patch(`/items/${id}/quantity?quantity=${quantity}`),
+
+  // Upload an item photo; the server stores thumbnail and medium renditions
+  uploadItemImage: (id, imageFile) => {
+    const formData = new FormData();
+    formData.append('image', imageFile);
+    return api.post(`/items/${id}/image`, formData, {
+      headers: {
+        'Content-Type': 'multipart/form-data',
+      },
+    });
+  },
+};
+
+// Background Jobs API
+export const jobAPI = {
+  // Submit a job, e.g. BARCODE_REGENERATION
+  submitJob: (type) => api.post(`/jobs?type=${encodeURIComponent(type)}`),
+
+  // Get job status and progress
+  getJob: (id) => api.get(`/jobs/${id}`),
+
+  // Cancel a queued or running job
+  cancelJob: (id) => api.post(`/jobs/${id}/cancel`),
+
+  // Subscribe to progress events; close the returned EventSource when done
+  subscribeToJob: (id, onProgress) => {
+    const source = new EventSource(`${API_BASE_URL}/jobs/${id}/events`);
+    source.addEventListener('progress', (event) => onProgress(JSON.parse(event.data)));
+    return source;
+  },
 };
 
+// Resolve server-relative rendition URLs (e.g. /api/images/1/thumbnail) against the API host.
+// API_BASE_URL may itself be relative (e.g. '/api' behind the dev proxy), so anchor it to the page origin.
+export const resolveAssetUrl = (url) =>
+  url && url.startsWith('/')
+    ? new URL(url, new URL(API_BASE_URL, window.location.origin)).toString()
+    : url;
+
 // Barcode/QR Code API
 export const barcodeAPI = {
   // Generate barcode